@@ -0,0 +1,100 @@
+package com.kuinox.enchantmentfixes;
+
+import org.bukkit.enchantments.Enchantment;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds the min/max enchantability of every (enchantment, level) in flat arrays, and the highest valid level of every
+ * enchantment precomputed for each enchantability.
+ * The slot of a level is enchantmentIndex * stride + (level - 1), unused slots can never be valid.
+ */
+class EnchantmentLevelTable {
+    private final Map<Enchantment, Integer> _indexes;
+    private final int _count;
+    private final int _stride;
+    private final int[] _min;
+    private final int[] _max;
+    private final int[] _level;
+    /**
+     * Highest level of each enchantment, indexed by [enchantability][enchantment index].
+     * The last row is for every enchantability above the highest max, where no level is valid.
+     */
+    private final int[][] _levels_by_enchantability;
+
+    EnchantmentLevelTable(List<Enchantment> enchantments, int[][] minByLevel, int[][] maxByLevel) {
+        _indexes = new HashMap<>();
+        _count = enchantments.size();
+        int stride = 1;
+        for (int[] levels : minByLevel) {
+            stride = Math.max(stride, levels.length);
+        }
+        _stride = stride;
+        _min = new int[_count * stride];
+        _max = new int[_count * stride];
+        _level = new int[_count * stride];
+        int highestMax = 0;
+        for (int i = 0; i < _count; i++) {
+            _indexes.put(enchantments.get(i), i);
+            for (int j = 0; j < stride; j++) {
+                int slot = i * stride + j;
+                if (j < minByLevel[i].length) {
+                    _min[slot] = minByLevel[i][j];
+                    _max[slot] = maxByLevel[i][j];
+                    _level[slot] = j + 1;
+                    highestMax = Math.max(highestMax, _max[slot]);
+                } else {
+                    _min[slot] = Integer.MAX_VALUE;
+                    _max[slot] = Integer.MIN_VALUE;
+                }
+            }
+        }
+        _levels_by_enchantability = resolveAll(highestMax + 1);
+    }
+
+    /**
+     * Returns the index of the enchantment in the results of {@link #getLevels(int)}, or -1 if the table doesn't know it.
+     */
+    int indexOf(Enchantment enchantment) {
+        Integer index = _indexes.get(enchantment);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns the highest level of each enchantment for this enchantability, 0 when no level can be used.
+     * The array is shared, it must not be modified.
+     */
+    int[] getLevels(int enchantability) {
+        int row = Math.min(Math.max(enchantability, 0), _levels_by_enchantability.length - 1);
+        return _levels_by_enchantability[row];
+    }
+
+    private void resolve(int enchantability, int[] output) {
+        for (int i = 0; i < _count; i++) {
+            int best = 0;
+            int offset = i * _stride;
+            //levels are visited in ascending order, so the last valid one is the highest.
+            for (int j = 0; j < _stride; j++) {
+                int slot = offset + j;
+                if (_min[slot] <= enchantability && enchantability <= _max[slot]) {
+                    best = _level[slot];
+                }
+            }
+            output[i] = best;
+        }
+    }
+
+    /**
+     * Resolves every enchantability from 0 to maxEnchantability.
+     * The result is indexed by [enchantability][enchantment index].
+     */
+    private int[][] resolveAll(int maxEnchantability) {
+        int[][] output = new int[maxEnchantability + 1][_count];
+        for (int enchantability = 0; enchantability <= maxEnchantability; enchantability++) {
+            resolve(enchantability, output[enchantability]);
+        }
+        return output;
+    }
+}
@@ -494,14 +494,131 @@ public class EnchantmentListener implements Listener {
     }};
 
 
+    /**
+     * Enchantability of the tools families, used to guess the enchantability of materials we don't know.
+     */
+    private Map<String, Integer> _material_family_enchantability = new LinkedHashMap<String, Integer>() {{
+        put("WOODEN_", 15);
+        put("STONE_", 5);
+        put("IRON_", 14);
+        put("DIAMOND_", 10);
+        put("GOLDEN_", 22);
+        put("NETHERITE_", 15);
+    }};
+
+    /**
+     * Enchantability of the armors families, used to guess the enchantability of materials we don't know.
+     */
+    private Map<String, Integer> _armor_family_enchantability = new LinkedHashMap<String, Integer>() {{
+        put("LEATHER_", 15);
+        put("CHAINMAIL_", 12);
+        put("IRON_", 9);
+        put("GOLDEN_", 25);
+        put("DIAMOND_", 10);
+        put("TURTLE_", 9);
+        put("NETHERITE_", 15);
+    }};
+
+    /**
+     * Holds the materials Minecraft could enchant but we don't know, with how many times they were seen.
+     */
+    private Map<Material, Integer> _unknown_materials;
+    /**
+     * Holds the materials added by {@link #discoverEnchantableMaterials()}, their enchantability is only a guess.
+     */
+    private Set<Material> _discovered_materials;
+    private EnchantmentLevelTable _level_table;
     private Map<Player, Long> _seeds;
     private Logger _m;
     private Plugin _plugin;
 
     EnchantmentListener(Plugin plugin) {
         _seeds = new HashMap<>();
+        _unknown_materials = new HashMap<>();
+        _discovered_materials = new HashSet<>();
         _m = plugin.getLogger();
         _plugin = plugin;
+        _level_table = createLevelTable();
+    }
+
+    private EnchantmentLevelTable createLevelTable() {
+        List<Enchantment> enchantments = new ArrayList<>(_minmax_map.keySet());
+        int[][] minByLevel = new int[enchantments.size()][];
+        int[][] maxByLevel = new int[enchantments.size()][];
+        for (int i = 0; i < enchantments.size(); i++) {
+            Enchantment enchantment = enchantments.get(i);
+            MinMaxEnchantability minMax = _minmax_map.get(enchantment);
+            minByLevel[i] = new int[enchantment.getMaxLevel()];
+            maxByLevel[i] = new int[enchantment.getMaxLevel()];
+            for (int level = 1; level <= enchantment.getMaxLevel(); level++) {
+                minByLevel[i][level - 1] = minMax.getMinEnchantability(level);
+                maxByLevel[i][level - 1] = minMax.getMaxEnchantability(level);
+            }
+        }
+        return new EnchantmentLevelTable(enchantments, minByLevel, maxByLevel);
+    }
+
+    /**
+     * Adds the enchantable materials of the server we don't know to the enchantability table.
+     * The enchantability is guessed from the material family, armors use the armor value of their family.
+     */
+    void discoverEnchantableMaterials() {
+        int discovered = 0;
+        for (Material material : Material.values()) {
+            if (material.isLegacy() || !material.isItem() || _enchantability.containsKey(material)) continue;
+            if (!canUseEnchantingTable(new ItemStack(material))) continue;
+            _enchantability.put(material, guessEnchantability(material));
+            _discovered_materials.add(material);
+            discovered++;
+        }
+        if (discovered > 0) {
+            _m.info("Discovered " + discovered + " enchantable items.");
+        }
+    }
+
+    /**
+     * Returns true if the item can get an enchantment from the table, and we know all the enchantments it can get.
+     * Unbreaking can be applied to any damageable item, but shears, shields, elytras... can't use the table.
+     */
+    private boolean canUseEnchantingTable(ItemStack item) {
+        boolean tableEnchantment = false;
+        for (Enchantment curr : getEnchantsThatCanBeApplied(item)) {
+            if (!_minmax_map.containsKey(curr) || !_weight_map.containsKey(curr)) return false;
+            if (curr != Enchantment.DURABILITY) tableEnchantment = true;
+        }
+        return tableEnchantment;
+    }
+
+    private int guessEnchantability(Material material) {
+        String name = material.name();
+        boolean isArmor = name.endsWith("_HELMET") || name.endsWith("_CHESTPLATE")
+                || name.endsWith("_LEGGINGS") || name.endsWith("_BOOTS");
+        Map<String, Integer> families = isArmor ? _armor_family_enchantability : _material_family_enchantability;
+        for (Map.Entry<String, Integer> family : families.entrySet()) {
+            if (name.startsWith(family.getKey())) return family.getValue();
+        }
+        return 1;//same as the bow, fishing rod, etc...
+    }
+
+    /**
+     * Logs how many times the unknown materials were seen on an enchanting table.
+     */
+    void logUnknownMaterials() {
+        for (Map.Entry<Material, Integer> entry : _unknown_materials.entrySet()) {
+            _m.warning("Unknown enchantable item " + entry.getKey() + " was seen " + entry.getValue() + " times, its enchantments were not corrected.");
+        }
+    }
+
+    /**
+     * Counts the material in the unknown materials, the warning is logged only the first time it is seen.
+     */
+    private void addUnknownMaterial(Material material, String warning) {
+        Integer seen = _unknown_materials.get(material);
+        if (seen == null) {//warn only once by material, it would spam the log otherwise.
+            seen = 0;
+            _m.warning(warning);
+        }
+        _unknown_materials.put(material, seen + 1);
     }
 
     private Random getPlayerRandom(Plugin plugin, Player player, int button) {
@@ -526,8 +643,9 @@ public class EnchantmentListener implements Listener {
 
         if (e.getOffers()[0] == null && e.getOffers()[1] == null && e.getOffers()[2] == null)
             return; //Minecraft didn't proposed any enchantments, we shouldn't find one.
-        if (!_enchantability.containsKey(e.getItem().getType())) {
-            _m.warning("Minecraft found at least one enchantment but we didn't knew this item could be enchanted. Displaying uncorrected enchantments.");
+        Material material = e.getItem().getType();
+        if (!_enchantability.containsKey(material)) {
+            addUnknownMaterial(material, "Minecraft found at least one enchantment but we didn't knew " + material + " could be enchanted. Displaying uncorrected enchantments.");
             return;
         }
 
@@ -548,7 +666,13 @@ public class EnchantmentListener implements Listener {
 
         LinkedHashMap<Enchantment, Integer> possiblesOffers = getEnchantsForThisEnchantability(allEnchantsThatCanBeApplied, modifiedEnchantLevel);
         if (possiblesOffers.size() == 0) {
-            _m.warning("I didn't found any offer when the game could.");
+            Material material = item.getType();
+            if (_discovered_materials.remove(material)) {//our guess was wrong, stop correcting this item.
+                _enchantability.remove(material);
+                addUnknownMaterial(material, "I didn't found any offer for the discovered item " + material + ". Displaying uncorrected enchantments.");
+            } else {
+                _m.warning("I didn't found any offer when the game could.");
+            }
             return null;
         }
         Enchantment weightedSelected = getEnchantmentRandomlyOnWeight(playerRandom, possiblesOffers);
@@ -593,8 +717,11 @@ public class EnchantmentListener implements Listener {
 
     private LinkedHashMap<Enchantment, Integer> getEnchantsForThisEnchantability(List<Enchantment> allEnchantsThatCanBeApplied, int enchantability) {
         LinkedHashMap<Enchantment, Integer> output = new LinkedHashMap<>();
+        int[] levels = _level_table.getLevels(enchantability);
         for (Enchantment curr : allEnchantsThatCanBeApplied) {
-            int level = getEnchantLevelForItem(curr, enchantability);
+            int index = _level_table.indexOf(curr);
+            if (index == -1) continue;
+            int level = levels[index];
             if (level == 0) continue;
             output.put(curr, level);
         }
@@ -614,18 +741,6 @@ public class EnchantmentListener implements Listener {
     }
 
 
-    private int getEnchantLevelForItem(Enchantment enchantment, int enchantability) {
-        MinMaxEnchantability minMax = _minmax_map.get(enchantment);
-        for (int i = enchantment.getMaxLevel(); i > 0; i--) {
-            boolean first = minMax.getMaxEnchantability(i) >= enchantability;
-            boolean second = minMax.getMinEnchantability(i) <= enchantability;
-            if (first && second) {
-                return i;
-            }
-        }
-        return 0;
-    }
-
     private int getModifiedEnchantLevel(Random r, Material material, int enchantLevel) {
         int enchantability = _enchantability.get(material);
 
@@ -647,6 +762,7 @@ public class EnchantmentListener implements Listener {
     @EventHandler
     public void onEnchantFinish(EnchantItemEvent e) {
         Player currentPlayer = e.getEnchanter();
+        if (!_enchantability.containsKey(e.getItem().getType())) return;//we didn't correct the offers of this item.
         if (!_seeds.containsKey(currentPlayer)) {
             _m.severe("Probably a bug: Player did an enchantment without triggering onEnchantProposal.");
             return;
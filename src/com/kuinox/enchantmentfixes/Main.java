@@ -3,14 +3,24 @@ package com.kuinox.enchantmentfixes;
 import org.bukkit.plugin.java.JavaPlugin;
 
 public class Main extends JavaPlugin {
+    private EnchantmentListener _listener;
+
     @Override
     public void onEnable(){
-        getServer().getPluginManager().registerEvents(new EnchantmentListener(this), this);
+        saveDefaultConfig();
+        _listener = new EnchantmentListener(this);
+        if (getConfig().getBoolean("discover-enchantable-items")) {
+            _listener.discoverEnchantableMaterials();
+        }
+        getServer().getPluginManager().registerEvents(_listener, this);
         getLogger().info("EnchantmentFixes enabled.");
     }
 
     @Override
     public void onDisable(){
+        if (_listener != null) {
+            _listener.logUnknownMaterials();
+        }
         getLogger().info("EnchantmentFixes disabled.");
     }
 